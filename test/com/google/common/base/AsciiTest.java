@@ -20,6 +20,8 @@ import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import junit.framework.TestCase;
 
+import java.nio.CharBuffer;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -53,6 +55,33 @@ public class AsciiTest extends TestCase {
         assertThat(Ascii.toUpperCase("FoOBAr")).isEqualTo("FOOBAR");
     }
 
+    public void testToLowerCase_charSequence() {
+        assertThat(Ascii.toLowerCase(new StringBuilder(UPPER))).isEqualTo(LOWER);
+        assertThat(Ascii.toLowerCase(new StringBuilder(LOWER))).isEqualTo(LOWER);
+        assertThat(Ascii.toLowerCase(new StringBuilder(IGNORED))).isEqualTo(IGNORED);
+        assertThat(Ascii.toLowerCase((CharSequence) LOWER)).isSameAs(LOWER);
+    }
+
+    public void testToUpperCase_charSequence() {
+        assertThat(Ascii.toUpperCase(new StringBuilder(LOWER))).isEqualTo(UPPER);
+        assertThat(Ascii.toUpperCase(new StringBuilder(UPPER))).isEqualTo(UPPER);
+        assertThat(Ascii.toUpperCase(new StringBuilder(IGNORED))).isEqualTo(IGNORED);
+        assertThat(Ascii.toUpperCase((CharSequence) UPPER)).isSameAs(UPPER);
+    }
+
+    public void testCaseConversion_longInputs() {
+        String lower = Strings.repeat(LOWER + IGNORED, 8);
+        String upper = Strings.repeat(UPPER + IGNORED, 8);
+        assertThat(Ascii.toLowerCase(lower)).isSameAs(lower);
+        assertThat(Ascii.toUpperCase(upper)).isSameAs(upper);
+        assertThat(Ascii.toLowerCase(upper)).isEqualTo(lower);
+        assertThat(Ascii.toUpperCase(lower)).isEqualTo(upper);
+
+        // The first character needing conversion is the last one.
+        assertThat(Ascii.toLowerCase(lower + "Z")).isEqualTo(lower + "z");
+        assertThat(Ascii.toUpperCase(upper + "z")).isEqualTo(upper + "Z");
+    }
+
     public void testCharsIgnored() {
         for (char c : IGNORED.toCharArray()) {
             String str = String.valueOf(c);
@@ -99,6 +128,15 @@ public class AsciiTest extends TestCase {
         assertThat(Ascii.truncate("", 0, "")).isEqualTo("");
     }
 
+    public void testTruncate_noTruncationReturnsInput() {
+        String input = "foobar";
+        assertThat(Ascii.truncate(input, 10, "...")).isSameAs(input);
+        assertThat(Ascii.truncate(input, 6, "...")).isSameAs(input);
+        assertThat(Ascii.truncate(input, 6, "")).isSameAs(input);
+        assertThat(Ascii.truncate(new StringBuilder(input), 6, "...")).isEqualTo(input);
+        assertThat(Ascii.truncate(new StringBuilder(input), 5, "...")).isEqualTo("fo...");
+    }
+
     public void testTruncateIllegalArguments() {
         try {
             Ascii.truncate("foobar", 2, "...");
@@ -140,6 +178,32 @@ public class AsciiTest extends TestCase {
         assertThat(Ascii.equalsIgnoreCase("[", "{")).isFalse();
     }
 
+    public void testEqualsIgnoreCase_charSequences() {
+        assertThat(Ascii.equalsIgnoreCase(new StringBuilder(LOWER), UPPER)).isTrue();
+        assertThat(Ascii.equalsIgnoreCase(UPPER, new StringBuilder(LOWER))).isTrue();
+        assertThat(Ascii.equalsIgnoreCase(new StringBuilder(IGNORED), IGNORED)).isTrue();
+        assertThat(Ascii.equalsIgnoreCase(new StringBuilder("foo"), "fooo")).isFalse();
+    }
+
+    public void testEqualsIgnoreCase_longInputs() {
+        String lower = Strings.repeat(LOWER + IGNORED, 8);
+        String upper = Strings.repeat(UPPER + IGNORED, 8);
+        assertThat(Ascii.equalsIgnoreCase(lower + "x", upper + "X")).isTrue();
+        assertThat(Ascii.equalsIgnoreCase(lower + "x", upper + "Y")).isFalse();
+        assertThat(Ascii.equalsIgnoreCase(lower + "@", upper + "`")).isFalse();
+        assertThat(Ascii.equalsIgnoreCase(lower + "\u00c1", upper + "\u00e1")).isFalse();
+    }
+
+    @GwtIncompatible // CharBuffer
+    public void testEqualsIgnoreCase_slices() {
+        char[] line = "content-type: text/plain".toCharArray();
+        assertThat(Ascii.equalsIgnoreCase(CharBuffer.wrap(line, 0, 12), "Content-Type")).isTrue();
+        assertThat(Ascii.equalsIgnoreCase(CharBuffer.wrap(line, 14, 10), "TEXT/PLAIN")).isTrue();
+        assertThat(Ascii.equalsIgnoreCase(CharBuffer.wrap(line, 0, 11), "Content-Type")).isFalse();
+        assertThat(Ascii.equalsIgnoreCase(CharBuffer.wrap(line, 1, 12), "Content-Type")).isFalse();
+        assertThat(Ascii.equalsIgnoreCase("SELECT * FROM t".subSequence(9, 13), "from")).isTrue();
+    }
+
     @GwtIncompatible // String.toUpperCase() has browser semantics
     public void testEqualsIgnoreCaseUnicodeEquivalence() {
         // Note that it's possible in future that the JDK's idea to toUpperCase() or equalsIgnoreCase()
@@ -17,8 +17,14 @@
 package com.google.common.base;
 
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.Lists;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.SerializableTester;
 import junit.framework.TestCase;
 
+import java.util.List;
+
 import static com.google.common.base.CaseFormat.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,93 +46,93 @@ public class CaseFormatTest extends TestCase {
         }
     }
 
-//    public void testLowerHyphenToLowerHyphen() {
-//        assertThat().isEqualTo();("foo", LOWER_HYPHEN.to(LOWER_HYPHEN, "foo"));
-//        assertThat().isEqualTo();("foo-bar", LOWER_HYPHEN.to(LOWER_HYPHEN, "foo-bar"));
-//    }
-//
-//    public void testLowerHyphenToLowerUnderscore() {
-//        assertThat().isEqualTo();("foo", LOWER_HYPHEN.to(LOWER_UNDERSCORE, "foo"));
-//        assertThat().isEqualTo();("foo_bar", LOWER_HYPHEN.to(LOWER_UNDERSCORE, "foo-bar"));
-//    }
-//
-//    public void testLowerHyphenToLowerCamel() {
-//        assertThat().isEqualTo();("foo", LOWER_HYPHEN.to(LOWER_CAMEL, "foo"));
-//        assertThat().isEqualTo();("fooBar", LOWER_HYPHEN.to(LOWER_CAMEL, "foo-bar"));
-//    }
-//
-//    public void testLowerHyphenToUpperCamel() {
-//        assertThat().isEqualTo();("Foo", LOWER_HYPHEN.to(UPPER_CAMEL, "foo"));
-//        assertThat().isEqualTo();("FooBar", LOWER_HYPHEN.to(UPPER_CAMEL, "foo-bar"));
-//    }
-//
-//    public void testLowerHyphenToUpperUnderscore() {
-//        assertThat().isEqualTo();("FOO", LOWER_HYPHEN.to(UPPER_UNDERSCORE, "foo"));
-//        assertThat().isEqualTo();("FOO_BAR", LOWER_HYPHEN.to(UPPER_UNDERSCORE, "foo-bar"));
-//    }
-//
-//    public void testLowerUnderscoreToLowerHyphen() {
-//        assertThat().isEqualTo();("foo", LOWER_UNDERSCORE.to(LOWER_HYPHEN, "foo"));
-//        assertThat().isEqualTo();("foo-bar", LOWER_UNDERSCORE.to(LOWER_HYPHEN, "foo_bar"));
-//    }
-//
-//    public void testLowerUnderscoreToLowerUnderscore() {
-//        assertThat().isEqualTo();("foo", LOWER_UNDERSCORE.to(LOWER_UNDERSCORE, "foo"));
-//        assertThat().isEqualTo();("foo_bar", LOWER_UNDERSCORE.to(LOWER_UNDERSCORE, "foo_bar"));
-//    }
-//
-//    public void testLowerUnderscoreToLowerCamel() {
-//        assertThat().isEqualTo();("foo", LOWER_UNDERSCORE.to(LOWER_CAMEL, "foo"));
-//        assertThat().isEqualTo();("fooBar", LOWER_UNDERSCORE.to(LOWER_CAMEL, "foo_bar"));
-//    }
-//
-//    public void testLowerUnderscoreToUpperCamel() {
-//        assertThat().isEqualTo();("Foo", LOWER_UNDERSCORE.to(UPPER_CAMEL, "foo"));
-//        assertThat().isEqualTo();("FooBar", LOWER_UNDERSCORE.to(UPPER_CAMEL, "foo_bar"));
-//    }
-//
-//    public void testLowerUnderscoreToUpperUnderscore() {
-//        assertThat().isEqualTo();("FOO", LOWER_UNDERSCORE.to(UPPER_UNDERSCORE, "foo"));
-//        assertThat().isEqualTo();("FOO_BAR", LOWER_UNDERSCORE.to(UPPER_UNDERSCORE, "foo_bar"));
-//    }
-//
-//    public void testLowerCamelToLowerHyphen() {
-//        assertThat().isEqualTo();("foo", LOWER_CAMEL.to(LOWER_HYPHEN, "foo"));
-//        assertThat().isEqualTo();("foo-bar", LOWER_CAMEL.to(LOWER_HYPHEN, "fooBar"));
-//        assertThat().isEqualTo();("h-t-t-p", LOWER_CAMEL.to(LOWER_HYPHEN, "HTTP"));
-//    }
-//
-//    public void testLowerCamelToLowerUnderscore() {
-//        assertThat().isEqualTo();("foo", LOWER_CAMEL.to(LOWER_UNDERSCORE, "foo"));
-//        assertThat().isEqualTo();("foo_bar", LOWER_CAMEL.to(LOWER_UNDERSCORE, "fooBar"));
-//        assertThat().isEqualTo();("h_t_t_p", LOWER_CAMEL.to(LOWER_UNDERSCORE, "hTTP"));
-//    }
-//
-//    public void testLowerCamelToLowerCamel() {
-//        assertThat().isEqualTo();("foo", LOWER_CAMEL.to(LOWER_CAMEL, "foo"));
-//        assertThat().isEqualTo();("fooBar", LOWER_CAMEL.to(LOWER_CAMEL, "fooBar"));
-//    }
-//
-//    public void testLowerCamelToUpperCamel() {
-//        assertThat().isEqualTo();("Foo", LOWER_CAMEL.to(UPPER_CAMEL, "foo"));
-//        assertThat().isEqualTo();("FooBar", LOWER_CAMEL.to(UPPER_CAMEL, "fooBar"));
-//        assertThat().isEqualTo();("HTTP", LOWER_CAMEL.to(UPPER_CAMEL, "hTTP"));
-//    }
-//
-//    public void testLowerCamelToUpperUnderscore() {
-//        assertThat().isEqualTo();("FOO", LOWER_CAMEL.to(UPPER_UNDERSCORE, "foo"));
-//        assertThat().isEqualTo();("FOO_BAR", LOWER_CAMEL.to(UPPER_UNDERSCORE, "fooBar"));
-//    }
-//
-//    public void testUpperCamelToLowerHyphen() {
-//        assertThat(UPPER_CAMEL.to(LOWER_HYPHEN, "Foo")).isEqualTo("foo");
-//        assertThat(UPPER_CAMEL.to(LOWER_HYPHEN, "FooBar")).isEqualTo("foo-bar");
-//    }
-//
-//    public void testUpperCamelToLowerUnderscore() {
-//        assertThat().isEqualTo();("foo", UPPER_CAMEL.to(LOWER_UNDERSCORE, "Foo"));
-//        assertThat().isEqualTo();("foo_bar", UPPER_CAMEL.to(LOWER_UNDERSCORE, "FooBar"));
-//    }
+    public void testLowerHyphenToLowerHyphen() {
+        assertThat(LOWER_HYPHEN.to(LOWER_HYPHEN, "foo")).isEqualTo("foo");
+        assertThat(LOWER_HYPHEN.to(LOWER_HYPHEN, "foo-bar")).isEqualTo("foo-bar");
+    }
+
+    public void testLowerHyphenToLowerUnderscore() {
+        assertThat(LOWER_HYPHEN.to(LOWER_UNDERSCORE, "foo")).isEqualTo("foo");
+        assertThat(LOWER_HYPHEN.to(LOWER_UNDERSCORE, "foo-bar")).isEqualTo("foo_bar");
+    }
+
+    public void testLowerHyphenToLowerCamel() {
+        assertThat(LOWER_HYPHEN.to(LOWER_CAMEL, "foo")).isEqualTo("foo");
+        assertThat(LOWER_HYPHEN.to(LOWER_CAMEL, "foo-bar")).isEqualTo("fooBar");
+    }
+
+    public void testLowerHyphenToUpperCamel() {
+        assertThat(LOWER_HYPHEN.to(UPPER_CAMEL, "foo")).isEqualTo("Foo");
+        assertThat(LOWER_HYPHEN.to(UPPER_CAMEL, "foo-bar")).isEqualTo("FooBar");
+    }
+
+    public void testLowerHyphenToUpperUnderscore() {
+        assertThat(LOWER_HYPHEN.to(UPPER_UNDERSCORE, "foo")).isEqualTo("FOO");
+        assertThat(LOWER_HYPHEN.to(UPPER_UNDERSCORE, "foo-bar")).isEqualTo("FOO_BAR");
+    }
+
+    public void testLowerUnderscoreToLowerHyphen() {
+        assertThat(LOWER_UNDERSCORE.to(LOWER_HYPHEN, "foo")).isEqualTo("foo");
+        assertThat(LOWER_UNDERSCORE.to(LOWER_HYPHEN, "foo_bar")).isEqualTo("foo-bar");
+    }
+
+    public void testLowerUnderscoreToLowerUnderscore() {
+        assertThat(LOWER_UNDERSCORE.to(LOWER_UNDERSCORE, "foo")).isEqualTo("foo");
+        assertThat(LOWER_UNDERSCORE.to(LOWER_UNDERSCORE, "foo_bar")).isEqualTo("foo_bar");
+    }
+
+    public void testLowerUnderscoreToLowerCamel() {
+        assertThat(LOWER_UNDERSCORE.to(LOWER_CAMEL, "foo")).isEqualTo("foo");
+        assertThat(LOWER_UNDERSCORE.to(LOWER_CAMEL, "foo_bar")).isEqualTo("fooBar");
+    }
+
+    public void testLowerUnderscoreToUpperCamel() {
+        assertThat(LOWER_UNDERSCORE.to(UPPER_CAMEL, "foo")).isEqualTo("Foo");
+        assertThat(LOWER_UNDERSCORE.to(UPPER_CAMEL, "foo_bar")).isEqualTo("FooBar");
+    }
+
+    public void testLowerUnderscoreToUpperUnderscore() {
+        assertThat(LOWER_UNDERSCORE.to(UPPER_UNDERSCORE, "foo")).isEqualTo("FOO");
+        assertThat(LOWER_UNDERSCORE.to(UPPER_UNDERSCORE, "foo_bar")).isEqualTo("FOO_BAR");
+    }
+
+    public void testLowerCamelToLowerHyphen() {
+        assertThat(LOWER_CAMEL.to(LOWER_HYPHEN, "foo")).isEqualTo("foo");
+        assertThat(LOWER_CAMEL.to(LOWER_HYPHEN, "fooBar")).isEqualTo("foo-bar");
+        assertThat(LOWER_CAMEL.to(LOWER_HYPHEN, "HTTP")).isEqualTo("h-t-t-p");
+    }
+
+    public void testLowerCamelToLowerUnderscore() {
+        assertThat(LOWER_CAMEL.to(LOWER_UNDERSCORE, "foo")).isEqualTo("foo");
+        assertThat(LOWER_CAMEL.to(LOWER_UNDERSCORE, "fooBar")).isEqualTo("foo_bar");
+        assertThat(LOWER_CAMEL.to(LOWER_UNDERSCORE, "hTTP")).isEqualTo("h_t_t_p");
+    }
+
+    public void testLowerCamelToLowerCamel() {
+        assertThat(LOWER_CAMEL.to(LOWER_CAMEL, "foo")).isEqualTo("foo");
+        assertThat(LOWER_CAMEL.to(LOWER_CAMEL, "fooBar")).isEqualTo("fooBar");
+    }
+
+    public void testLowerCamelToUpperCamel() {
+        assertThat(LOWER_CAMEL.to(UPPER_CAMEL, "foo")).isEqualTo("Foo");
+        assertThat(LOWER_CAMEL.to(UPPER_CAMEL, "fooBar")).isEqualTo("FooBar");
+        assertThat(LOWER_CAMEL.to(UPPER_CAMEL, "hTTP")).isEqualTo("HTTP");
+    }
+
+    public void testLowerCamelToUpperUnderscore() {
+        assertThat(LOWER_CAMEL.to(UPPER_UNDERSCORE, "foo")).isEqualTo("FOO");
+        assertThat(LOWER_CAMEL.to(UPPER_UNDERSCORE, "fooBar")).isEqualTo("FOO_BAR");
+    }
+
+    public void testUpperCamelToLowerHyphen() {
+        assertThat(UPPER_CAMEL.to(LOWER_HYPHEN, "Foo")).isEqualTo("foo");
+        assertThat(UPPER_CAMEL.to(LOWER_HYPHEN, "FooBar")).isEqualTo("foo-bar");
+    }
+
+    public void testUpperCamelToLowerUnderscore() {
+        assertThat(UPPER_CAMEL.to(LOWER_UNDERSCORE, "Foo")).isEqualTo("foo");
+        assertThat(UPPER_CAMEL.to(LOWER_UNDERSCORE, "FooBar")).isEqualTo("foo_bar");
+    }
 
     public void testUpperCamelToLowerCamel() {
         assertThat(UPPER_CAMEL.to(LOWER_CAMEL, "Foo")).isEqualTo("foo");
@@ -172,6 +178,15 @@ public class CaseFormatTest extends TestCase {
         assertThat(UPPER_UNDERSCORE.to(UPPER_UNDERSCORE, "FOO_BAR")).isEqualTo("FOO_BAR");
     }
 
+    public void testNonAsciiLettersAreNotCaseMapped() {
+        assertThat(UPPER_UNDERSCORE.to(LOWER_CAMEL, "\u00c9T\u00c9_CAF\u00c9"))
+                .isEqualTo("\u00c9t\u00c9Caf\u00c9");
+        assertThat(LOWER_CAMEL.to(UPPER_UNDERSCORE, "caf\u00e9Au\u00e9"))
+                .isEqualTo("CAF\u00e9_AU\u00e9");
+        // Non-ASCII uppercase letters are not word boundaries.
+        assertThat(LOWER_CAMEL.to(LOWER_HYPHEN, "\u00c9t\u00c9")).isEqualTo("\u00c9t\u00c9");
+    }
+
     public void testConverterToForward() {
         assertThat(UPPER_UNDERSCORE.converterTo(UPPER_CAMEL).convert("FOO_BAR")).isEqualTo("FooBar");
         assertThat(UPPER_UNDERSCORE.converterTo(LOWER_CAMEL).convert("FOO_BAR")).isEqualTo("fooBar");
@@ -186,6 +201,27 @@ public class CaseFormatTest extends TestCase {
         assertThat(LOWER_CAMEL.converterTo(UPPER_UNDERSCORE).reverse().convert("FOO_BAR")).isEqualTo("fooBar");
     }
 
+    public void testConverter_convertAll() {
+        List<String> identifiers = Lists.newArrayList("FOO_BAR", "HTTP", "A_B_C");
+        Converter<String, String> converter = UPPER_UNDERSCORE.converterTo(LOWER_CAMEL);
+
+        Iterable<String> converted = converter.convertAll(identifiers);
+        assertThat(converted).containsExactly("fooBar", "http", "aBC");
+
+        identifiers.add("X_Y");
+        assertThat(converted).containsExactly("fooBar", "http", "aBC", "xY");
+
+        assertThat(converter.reverse().convertAll(converted))
+                .containsExactly("FOO_BAR", "HTTP", "A_B_C", "X_Y");
+    }
+
+    public void testConverter_notAlwaysReversible() {
+        Converter<String, String> converter = UPPER_UNDERSCORE.converterTo(LOWER_CAMEL);
+        assertThat(converter.convert("FOO__BAR")).isEqualTo("fooBar");
+        assertThat(converter.convert("FOO_BAR")).isEqualTo("fooBar");
+        assertThat(converter.reverse().convert("fooBar")).isEqualTo("FOO_BAR");
+    }
+
     public void testConverter_nullConversions() {
         for (CaseFormat outer : CaseFormat.values()) {
             for (CaseFormat inner : CaseFormat.values()) {
@@ -199,4 +235,22 @@ public class CaseFormatTest extends TestCase {
         assertThat(LOWER_HYPHEN.converterTo(UPPER_CAMEL).toString())
                 .isEqualTo("LOWER_HYPHEN.converterTo(UPPER_CAMEL)");
     }
+
+    public void testConverter_equals() {
+        new EqualsTester()
+                .addEqualityGroup(
+                        LOWER_CAMEL.converterTo(LOWER_UNDERSCORE), LOWER_CAMEL.converterTo(LOWER_UNDERSCORE))
+                .addEqualityGroup(LOWER_UNDERSCORE.converterTo(LOWER_CAMEL))
+                .addEqualityGroup(LOWER_CAMEL.converterTo(UPPER_UNDERSCORE))
+                .testEquals();
+    }
+
+    @GwtIncompatible // SerializableTester
+    public void testConverter_serialization() {
+        for (CaseFormat outer : CaseFormat.values()) {
+            for (CaseFormat inner : CaseFormat.values()) {
+                SerializableTester.reserializeAndAssert(outer.converterTo(inner));
+            }
+        }
+    }
 }
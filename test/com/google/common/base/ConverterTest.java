@@ -19,6 +19,8 @@ package com.google.common.base;
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.SerializableTester;
@@ -26,6 +28,7 @@ import junit.framework.TestCase;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.base.Functions.toStringFunction;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -79,6 +82,33 @@ public class ConverterTest extends TestCase {
         assertThat(mutableList).isEqualTo(ImmutableList.of("123"));
     }
 
+    public void testConvertAllIsLazy() {
+        final AtomicInteger calls = new AtomicInteger();
+        Converter<String, Long> countingConverter =
+                new Converter<String, Long>() {
+                    @Override
+                    protected Long doForward(String object) {
+                        calls.incrementAndGet();
+                        return Long.valueOf(object);
+                    }
+
+                    @Override
+                    protected String doBackward(Long object) {
+                        return String.valueOf(object);
+                    }
+                };
+
+        Iterable<Long> convertedValues = countingConverter.convertAll(STRINGS);
+        Iterator<Long> iterator = convertedValues.iterator();
+        assertThat(calls.get()).isEqualTo(0);
+
+        assertThat(iterator.next()).isEqualTo(123L);
+        assertThat(calls.get()).isEqualTo(1);
+
+        assertThat(ImmutableList.copyOf(convertedValues)).isEqualTo(LONGS);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
     public void testReverse() {
         Converter<Long, String> reverseConverter = STR_TO_LONG.reverse();
 
@@ -144,6 +174,43 @@ public class ConverterTest extends TestCase {
         assertThat(first.andThen(STR_TO_LONG)).isEqualTo(first.andThen(STR_TO_LONG));
     }
 
+    public void testAndThen_multipleStages() {
+        Converter<String, String> a = suffixConverter("a");
+        Converter<String, String> b = suffixConverter("b");
+        Converter<String, String> c = suffixConverter("c");
+
+        Converter<String, String> leftNested = a.andThen(b).andThen(c);
+        Converter<String, String> rightNested = a.andThen(b.andThen(c));
+
+        assertThat(leftNested.convert("x")).isEqualTo("xabc");
+        assertThat(rightNested.convert("x")).isEqualTo("xabc");
+        assertThat(leftNested.reverse().convert("xabc")).isEqualTo("x");
+        assertThat(rightNested.reverse().convert("xabc")).isEqualTo("x");
+        assertThat(ImmutableList.copyOf(leftNested.convertAll(ImmutableList.of("x", "y"))))
+                .isEqualTo(ImmutableList.of("xabc", "yabc"));
+
+        try {
+            leftNested.reverse().convert("xacb");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static Converter<String, String> suffixConverter(final String suffix) {
+        return new Converter<String, String>() {
+            @Override
+            protected String doForward(String string) {
+                return string + suffix;
+            }
+
+            @Override
+            protected String doBackward(String string) {
+                Preconditions.checkArgument(string.endsWith(suffix));
+                return string.substring(0, string.length() - suffix.length());
+            }
+        };
+    }
+
     public void testIdentityConverter() {
         Converter<String, String> stringIdentityConverter = Converter.identity();
 
@@ -207,6 +274,23 @@ public class ConverterTest extends TestCase {
         };
     }
 
+    public void testPrimitiveStringConverters() {
+        assertThat(Longs.stringConverter().convert(STR_VAL)).isEqualTo(LONG_VAL);
+        assertThat(Longs.stringConverter().reverse().convert(LONG_VAL)).isEqualTo(STR_VAL);
+        assertThat(ImmutableList.copyOf(Longs.stringConverter().convertAll(STRINGS))).isEqualTo(LONGS);
+        // Unlike STR_TO_LONG, the primitive converters decode hex and octal input.
+        assertThat(Longs.stringConverter().convert("0x10")).isEqualTo(16L);
+        assertThat(Longs.stringConverter().convert("010")).isEqualTo(8L);
+
+        assertThat(Ints.stringConverter().convert("-7")).isEqualTo(-7);
+        assertThat(Ints.stringConverter().reverse().convert(-7)).isEqualTo("-7");
+        assertThat(Doubles.stringConverter().convert("1.5")).isEqualTo(1.5);
+        assertThat(Doubles.stringConverter().reverse().convert(1.5)).isEqualTo("1.5");
+
+        assertThat(Longs.stringConverter().convert(null)).isNull();
+        assertThat(Ints.stringConverter().reverse().convert(null)).isNull();
+    }
+
     public void testSerialization_identity() {
         Converter<String, String> identityConverter = Converter.identity();
         SerializableTester.reserializeAndAssert(identityConverter);
@@ -112,6 +112,15 @@ public class EnumsTest extends TestCase {
         assertThat(converter.reverse().convert(TestEnum.POODLE)).isEqualTo("POODLE");
     }
 
+    public void testStringConverter_roundTrip() {
+        Converter<String, TestEnum> converter = Enums.stringConverter(TestEnum.class);
+        for (TestEnum constant : TestEnum.values()) {
+            assertThat(converter.convert(converter.reverse().convert(constant))).isSameAs(constant);
+            assertThat(converter.reverse().convert(converter.convert(constant.name())))
+                    .isEqualTo(constant.name());
+        }
+    }
+
     @GwtIncompatible // NullPointerTester
     public void testStringConverter_nullPointerTester() throws Exception {
         Converter<String, TestEnum> converter = Enums.stringConverter(TestEnum.class);
@@ -139,6 +139,26 @@ public class FunctionsTest extends TestCase {
         assertThat(function.apply("Three").longValue()).isEqualTo(3L);
     }
 
+    public void testForMapIsView() {
+        Map<String, Integer> map = Maps.newHashMap();
+        Function<String, Integer> withDefault = Functions.forMap(map, 42);
+        Function<String, Integer> withoutDefault = Functions.forMap(map);
+
+        assertThat(withDefault.apply("One").intValue()).isEqualTo(42);
+
+        map.put("One", 1);
+        assertThat(withDefault.apply("One").intValue()).isEqualTo(1);
+        assertThat(withoutDefault.apply("One").intValue()).isEqualTo(1);
+
+        map.remove("One");
+        assertThat(withDefault.apply("One").intValue()).isEqualTo(42);
+        try {
+            withoutDefault.apply("One");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
     public void testComposition() {
         Map<String, Integer> mJapaneseToInteger = Maps.newHashMap();
         mJapaneseToInteger.put("Ichi", 1);
@@ -197,6 +217,32 @@ public class FunctionsTest extends TestCase {
                 Functions.compose(numberToSpanish, japaneseToInteger);
     }
 
+    public void testCompositionWithConstant_appliesInnerFunction() {
+        Function<String, Integer> japaneseToInteger = Functions.forMap(ImmutableMap.of("Ichi", 1));
+        Function<Object, String> numberToSpanish = Functions.constant("Yo no se");
+
+        Function<String, String> japaneseToSpanish =
+                Functions.compose(numberToSpanish, japaneseToInteger);
+
+        assertThat(japaneseToSpanish.apply("Ichi")).isEqualTo("Yo no se");
+        try {
+            japaneseToSpanish.apply("Shi");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testCompositionWithIdentity() {
+        Function<Float, String> f = Functions.forMap(ImmutableMap.of(1.0f, "D"), "F");
+        Function<Float, String> identityAfter = Functions.compose(Functions.<String>identity(), f);
+        Function<Float, String> identityBefore = Functions.compose(f, Functions.<Float>identity());
+
+        assertThat(identityAfter.apply(1.0f)).isEqualTo("D");
+        assertThat(identityAfter.apply(5.0f)).isEqualTo("F");
+        assertThat(identityBefore.apply(1.0f)).isEqualTo("D");
+        assertThat(identityBefore.apply(5.0f)).isEqualTo("F");
+    }
+
     private static class HashCodeFunction implements Function<Object, Integer> {
         @Override
         public Integer apply(Object o) {
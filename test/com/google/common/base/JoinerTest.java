@@ -24,11 +24,14 @@ import junit.framework.AssertionFailedError;
 import junit.framework.TestCase;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -119,6 +122,19 @@ public class JoinerTest extends TestCase {
         checkResult(zeroForNull, ITERABLE_FOUR_NULLS, "0-0-0-0");
     }
 
+    public void testAppendToStreamIterator() {
+        StringBuilder skipNulls = new StringBuilder().append('x');
+        J.skipNulls().appendTo(skipNulls, Stream.of(1, null, 2, null).iterator());
+        assertThat(skipNulls.toString()).isEqualTo("x1-2");
+
+        StringBuilder useForNull = new StringBuilder().append('x');
+        J.useForNull("0").appendTo(useForNull, Stream.of(1, null, 2, null).iterator());
+        assertThat(useForNull.toString()).isEqualTo("x1-0-2-0");
+
+        assertThat(J.join(Stream.of(1, 2, 3).iterator())).isEqualTo("1-2-3");
+        assertThat(J.join(Stream.empty().iterator())).isEqualTo("");
+    }
+
     private static void checkNoOutput(Joiner joiner, Iterable<Integer> set) {
         assertEquals("", joiner.join(set));
         assertEquals("", joiner.join(set.iterator()));
@@ -296,6 +312,30 @@ public class JoinerTest extends TestCase {
         assertThat(sb2.toString()).isEqualTo("1:2;1:3;3:4;5:6;5:10");
     }
 
+    public void testMapAppendToWriter() throws IOException {
+        MapJoiner j = Joiner.on('\n').withKeyValueSeparator('=');
+        SortedMap<String, Integer> map = Maps.newTreeMap();
+        map.put("c", 3);
+        map.put("a", 1);
+        map.put("b", 2);
+
+        StringWriter writer = new StringWriter();
+        assertThat(j.appendTo(writer, map.entrySet().iterator())).isSameAs(writer);
+        assertThat(writer.toString()).isEqualTo("a=1\nb=2\nc=3");
+
+        try {
+            j.appendTo(NASTY_APPENDABLE, map);
+            fail();
+        } catch (IOException expected) {
+        }
+
+        try {
+            j.appendTo(NASTY_APPENDABLE, map.entrySet().iterator());
+            fail();
+        } catch (IOException expected) {
+        }
+    }
+
     public void test_skipNulls_onMap() {
         Joiner j = Joiner.on(",").skipNulls();
         try {
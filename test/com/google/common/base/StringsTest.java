@@ -17,8 +17,12 @@
 package com.google.common.base;
 
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import junit.framework.TestCase;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -46,6 +50,26 @@ public class StringsTest extends TestCase {
         assertThat(Strings.isNullOrEmpty("a")).isFalse();
     }
 
+    public void testPadStart_noPadding() {
+        assertThat(Strings.padStart("", 0, '-')).isSameAs("");
+        assertThat(Strings.padStart("x", 0, '-')).isSameAs("x");
+        assertThat(Strings.padStart("x", 1, '-')).isSameAs("x");
+        assertThat(Strings.padStart("xx", 0, '-')).isSameAs("xx");
+        assertThat(Strings.padStart("xx", 2, '-')).isSameAs("xx");
+    }
+
+    public void testPadStart_somePadding() {
+        assertThat(Strings.padStart("", 1, '-')).isEqualTo("-");
+        assertThat(Strings.padStart("", 2, '-')).isEqualTo("--");
+        assertThat(Strings.padStart("x", 2, '-')).isEqualTo("-x");
+        assertThat(Strings.padStart("x", 3, '-')).isEqualTo("--x");
+        assertThat(Strings.padStart("xx", 3, '-')).isEqualTo("-xx");
+    }
+
+    public void testPadStart_negativeMinLength() {
+        assertThat(Strings.padStart("x", -1, '-')).isSameAs("x");
+    }
+
     // TODO: could remove if we got NPT working in GWT somehow
     public void testPadStart_null() {
         try {
@@ -55,6 +79,26 @@ public class StringsTest extends TestCase {
         }
     }
 
+    public void testPadEnd_noPadding() {
+        assertThat(Strings.padEnd("", 0, '-')).isSameAs("");
+        assertThat(Strings.padEnd("x", 0, '-')).isSameAs("x");
+        assertThat(Strings.padEnd("x", 1, '-')).isSameAs("x");
+        assertThat(Strings.padEnd("xx", 0, '-')).isSameAs("xx");
+        assertThat(Strings.padEnd("xx", 2, '-')).isSameAs("xx");
+    }
+
+    public void testPadEnd_somePadding() {
+        assertThat(Strings.padEnd("", 1, '-')).isEqualTo("-");
+        assertThat(Strings.padEnd("", 2, '-')).isEqualTo("--");
+        assertThat(Strings.padEnd("x", 2, '-')).isEqualTo("x-");
+        assertThat(Strings.padEnd("x", 3, '-')).isEqualTo("x--");
+        assertThat(Strings.padEnd("xx", 3, '-')).isEqualTo("xx-");
+    }
+
+    public void testPadEnd_negativeMinLength() {
+        assertThat(Strings.padEnd("x", -1, '-')).isSameAs("x");
+    }
+
     // TODO: could remove if we got NPT working in GWT somehow
     public void testPadEnd_null() {
         try {
@@ -64,6 +108,32 @@ public class StringsTest extends TestCase {
         }
     }
 
+    public void testRepeat() {
+        String input = "20";
+        assertThat(Strings.repeat(input, 0)).isEqualTo("");
+        assertThat(Strings.repeat(input, 1)).isEqualTo("20");
+        assertThat(Strings.repeat(input, 2)).isEqualTo("2020");
+        assertThat(Strings.repeat(input, 3)).isEqualTo("202020");
+
+        assertThat(Strings.repeat("", 4)).isEqualTo("");
+
+        for (int i = 0; i < 100; ++i) {
+            assertThat(Strings.repeat(input, i).length()).isEqualTo(2 * i);
+        }
+
+        try {
+            Strings.repeat("x", -1);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            // Massive string
+            Strings.repeat("12345678", (1 << 30) + 3);
+            fail();
+        } catch (ArrayIndexOutOfBoundsException expected) {
+        }
+    }
+
     // TODO: could remove if we got NPT working in GWT somehow
     public void testRepeat_null() {
         try {
@@ -95,6 +165,37 @@ public class StringsTest extends TestCase {
         assertThat(Strings.commonPrefix("\uD8AB", "\uD8AB")).isEqualTo("\uD8AB");
     }
 
+    public void testCommonPrefix_longInputs() {
+        String shared = Strings.repeat("abcdefgh", 64);
+        assertThat(Strings.commonPrefix(shared + "x", shared + "y")).isEqualTo(shared);
+        assertThat(Strings.commonPrefix(new StringBuilder(shared).append('x'), shared + "y"))
+                .isEqualTo(shared);
+
+        // Differing valid surrogate pairs after a long shared run.
+        assertThat(Strings.commonPrefix(shared + "\uD8AB\uDCABx", shared + "\uD8AB\uDCACx"))
+                .isEqualTo(shared);
+    }
+
+    public void testCommonPrefix_foldIsOrderIndependent() {
+        checkCommonPrefixFold(
+                "/api/v", ImmutableList.of("/api/v1/users", "/api/v1/user", "/api/v2", "/api/v1/"));
+        checkCommonPrefixFold(
+                "ab", ImmutableList.of("ab\uD8AB\uDCAB", "ab\uD8AB\uDCAC", "ab\uD8AB"));
+        checkCommonPrefixFold(
+                "ab\uD8AB", ImmutableList.of("ab\uD8ABx", "ab\uD8ABy", "ab\uD8AB"));
+        checkCommonPrefixFold("", ImmutableList.of("abc", "", "abd"));
+    }
+
+    private static void checkCommonPrefixFold(String expected, ImmutableList<String> inputs) {
+        for (List<String> permutation : Collections2.permutations(inputs)) {
+            String prefix = permutation.get(0);
+            for (String input : permutation) {
+                prefix = Strings.commonPrefix(prefix, input);
+            }
+            assertThat(prefix).isEqualTo(expected);
+        }
+    }
+
     public void testCommonSuffix() {
         assertEquals("", Strings.commonSuffix("", ""));
         assertEquals("", Strings.commonSuffix("abc", ""));
@@ -117,6 +218,17 @@ public class StringsTest extends TestCase {
         assertThat(Strings.commonSuffix("\uDCAB", "\uDCAB")).isEqualTo("\uDCAB");
     }
 
+    public void testCommonSuffix_longInputs() {
+        String shared = Strings.repeat("abcdefgh", 64);
+        assertThat(Strings.commonSuffix("x" + shared, "y" + shared)).isEqualTo(shared);
+        assertThat(Strings.commonSuffix(new StringBuilder("x").append(shared), "y" + shared))
+                .isEqualTo(shared);
+
+        // Differing valid surrogate pairs before a long shared run.
+        assertThat(Strings.commonSuffix("x\uD8AB\uDCAB" + shared, "x\uD8AC\uDCAB" + shared))
+                .isEqualTo(shared);
+    }
+
     public void testValidSurrogatePairAt() {
         assertThat(Strings.validSurrogatePairAt("\uD8AB\uDCAB", 0)).isTrue();
         assertThat(Strings.validSurrogatePairAt("abc\uD8AB\uDCAB", 3)).isTrue();
@@ -130,4 +242,23 @@ public class StringsTest extends TestCase {
         assertThat(Strings.validSurrogatePairAt("x\uDCAB", 0)).isFalse();
         assertThat(Strings.validSurrogatePairAt("\uD8ABx", 0)).isFalse();
     }
+
+    public void testLenientFormat() {
+        assertThat(Strings.lenientFormat("%s")).isEqualTo("%s");
+        assertThat(Strings.lenientFormat("%s", 5)).isEqualTo("5");
+        assertThat(Strings.lenientFormat("foo", 5)).isEqualTo("foo [5]");
+        assertThat(Strings.lenientFormat("foo", 5, 6, 7)).isEqualTo("foo [5, 6, 7]");
+        assertThat(Strings.lenientFormat("%s %s %s", "%s", 1, 2)).isEqualTo("%s 1 2");
+        assertThat(Strings.lenientFormat("", 5, 6)).isEqualTo(" [5, 6]");
+        assertThat(Strings.lenientFormat("%s%s%s", 1, 2, 3)).isEqualTo("123");
+        assertThat(Strings.lenientFormat("%s%s%s", 1)).isEqualTo("1%s%s");
+        assertThat(Strings.lenientFormat("%s + 6 = 11", 5)).isEqualTo("5 + 6 = 11");
+        assertThat(Strings.lenientFormat("5 + %s = 11", 6)).isEqualTo("5 + 6 = 11");
+        assertThat(Strings.lenientFormat("5 + 6 = %s", 11)).isEqualTo("5 + 6 = 11");
+        assertThat(Strings.lenientFormat("%s + %s = %s", 5, 6, 11)).isEqualTo("5 + 6 = 11");
+        assertThat(Strings.lenientFormat("%s", null, null, null)).isEqualTo("null [null, null]");
+        assertThat(Strings.lenientFormat(null, 5, 6)).isEqualTo("null [5, 6]");
+        assertThat(Strings.lenientFormat("%s", (Object) null)).isEqualTo("null");
+        assertThat(Strings.lenientFormat("%s", (Object[]) null)).isEqualTo("(Object[])null");
+    }
 }
@@ -23,7 +23,9 @@ import junit.framework.TestCase;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -124,6 +126,24 @@ public class SuppliersTest extends TestCase {
         }
     }
 
+    public void testMemoize_nullValue() {
+        final AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> memoizedSupplier =
+                Suppliers.memoize(
+                        new Supplier<Integer>() {
+                            @Override
+                            public Integer get() {
+                                calls.incrementAndGet();
+                                return null;
+                            }
+                        });
+
+        assertThat(memoizedSupplier.get()).isNull();
+        assertThat(memoizedSupplier.get()).isNull();
+        // a null result is memoized like any other value
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
     public void testCompose() {
         Supplier<Integer> fiveSupplier =
                 new Supplier<Integer>() {
@@ -322,6 +342,49 @@ public class SuppliersTest extends TestCase {
         assertThat(count.get()).isEqualTo(1);
     }
 
+    @GwtIncompatible // Thread
+    public void testMemoizedSupplierCalledOnceUnderContention() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> memoizedSupplier =
+                Suppliers.memoize(
+                        new Supplier<Integer>() {
+                            @Override
+                            public Integer get() {
+                                Thread.yield();
+                                return calls.incrementAndGet();
+                            }
+                        });
+
+        final int numThreads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+        Thread[] threads = new Thread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            threads[i] =
+                    new Thread() {
+                        @Override
+                        public void run() {
+                            try {
+                                start.await();
+                            } catch (InterruptedException e) {
+                                throw new AssertionError(e);
+                            }
+                            results.add(memoizedSupplier.get());
+                        }
+                    };
+        }
+        for (Thread t : threads) {
+            t.start();
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(results).hasSize(numThreads).containsOnly(1);
+    }
+
     @GwtIncompatible // Thread
 
     public void testSynchronizedSupplierThreadSafe() throws InterruptedException {
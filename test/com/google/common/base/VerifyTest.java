@@ -45,6 +45,15 @@ public class VerifyTest extends TestCase {
         verify(true, "%s", IGNORE_ME);
     }
 
+    public void testVerify_complexMessage_failure() {
+        try {
+            verify(false, FORMAT, 5);
+            fail();
+        } catch (VerifyException expected) {
+            checkMessage(expected);
+        }
+    }
+
     private static final String NON_NULL_STRING = "foo";
 
     public void testVerifyNotNull_simple_success() {
@@ -65,6 +74,15 @@ public class VerifyTest extends TestCase {
         assertThat(result).isSameAs(NON_NULL_STRING);
     }
 
+    public void testVerifyNotNull_complexMessage_failure() {
+        try {
+            verifyNotNull(null, FORMAT, 5);
+            fail();
+        } catch (VerifyException expected) {
+            checkMessage(expected);
+        }
+    }
+
     @GwtIncompatible // NullPointerTester
     public void testNullPointers() {
         // Don't bother testing: Verify is like Preconditions. See the discussion on that class.
@@ -79,4 +97,8 @@ public class VerifyTest extends TestCase {
             };
 
     private static final String FORMAT = "I ate %s pies.";
+
+    private static void checkMessage(Exception e) {
+        assertThat(e).hasMessage("I ate 5 pies.");
+    }
 }